@@ -3,6 +3,7 @@ package com.swapidashboard.backend.config;
 import com.swapidashboard.backend.security.JwtRequestFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -74,6 +75,7 @@ public class SecurityConfig {
         config.addAllowedOrigin("http://localhost:3000"); // Cambia con il tuo frontend
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader(HttpHeaders.RETRY_AFTER); // backoff per le risposte 503 del limiter SWAPI
         config.setAllowCredentials(true);
         source.registerCorsConfiguration("/**", config);
         return source;
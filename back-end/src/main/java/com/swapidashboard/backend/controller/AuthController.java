@@ -1,8 +1,8 @@
 package com.swapidashboard.backend.controller;
 
 import com.swapidashboard.backend.dto.LoginRequest;
+import com.swapidashboard.backend.dto.LoginResponse;
 import com.swapidashboard.backend.dto.PasswordChangeRequest;
-import com.swapidashboard.backend.model.User;
 import com.swapidashboard.backend.service.UserService;
 import com.swapidashboard.backend.service.AuthService;
 import jakarta.validation.Valid;
@@ -13,7 +13,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -21,6 +20,8 @@ import java.util.Optional;
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "http://localhost:3000")
 public class AuthController {
+    private static final Map<String, Object> INVALID_CREDENTIALS = Map.of("message", "Invalid credentials");
+
     private final AuthService authService;
     private final UserService userService;
 
@@ -31,28 +32,11 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody @Valid LoginRequest loginRequest) {
-        Optional<User> authenticatedUser = authService.authenticate(loginRequest.getEmail(), loginRequest.getPassword());
-        if (authenticatedUser.isPresent()) {
-            User user = authenticatedUser.get();
-            String jwtToken = authService.generateTokenForUser(user.getEmail());
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Login successful");
-            response.put("token", jwtToken);
-
-            Map<String, Object> userData = new HashMap<>();
-            userData.put("id", user.getId());
-            userData.put("username", user.getUsername());
-            userData.put("email", user.getEmail());
-            userData.put("role", user.getRole());
-            userData.put("isActive", user.isActive());
-            userData.put("createdAt", user.getCreatedAt());
-            userData.put("updatedAt", user.getUpdatedAt());
-            response.put("user", userData);
-            return ResponseEntity.ok(response);
+        Optional<LoginResponse> response = authService.login(loginRequest.getEmail(), loginRequest.getPassword());
+        if (response.isPresent()) {
+            return ResponseEntity.ok(response.get());
         } else {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("message", "Invalid credentials");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(INVALID_CREDENTIALS);
         }
     }
 
@@ -0,0 +1,78 @@
+package com.swapidashboard.backend.controller;
+
+import com.swapidashboard.backend.dto.SwapiLimiterMetrics;
+import com.swapidashboard.backend.service.SwapiRateLimiter.Priority;
+import com.swapidashboard.backend.service.SwapiService;
+import com.swapidashboard.backend.service.SwapiThrottledException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/swapi")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SwapiController {
+    private final SwapiService swapiService;
+
+    public SwapiController(SwapiService swapiService) {
+        this.swapiService = swapiService;
+    }
+
+    // GET /api/swapi/limiter
+    @GetMapping("/limiter")
+    public SwapiLimiterMetrics getLimiterMetrics() {
+        return swapiService.getLimiterMetrics();
+    }
+
+    // GET /api/swapi/{type}?page=1&limit=10
+    @GetMapping("/{type}")
+    public ResponseEntity<?> getPage(@PathVariable String type,
+                                     @RequestParam(defaultValue = "1") int page,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return swapiService.getPage(type, page, limit)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "SWAPI page " + page + " of " + type + " not found")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (SwapiThrottledException e) {
+            return throttled(e);
+        } catch (Exception e) {
+            System.err.println("Error fetching SWAPI page " + page + " of " + type + ": " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("message", "Unable to reach SWAPI."));
+        }
+    }
+
+    // GET /api/swapi/{type}/{id}?expand=homeworld,people&depth=1&priority=INTERACTIVE
+    @GetMapping("/{type}/{id}")
+    public ResponseEntity<?> getEntity(@PathVariable String type, @PathVariable String id,
+                                       @RequestParam(required = false) List<String> expand,
+                                       @RequestParam(defaultValue = "1") int depth,
+                                       @RequestParam(defaultValue = "INTERACTIVE") Priority priority) {
+        try {
+            Set<String> fields = expand == null ? Set.of() : new HashSet<>(expand);
+            return swapiService.getEntity(type, id, fields, depth, priority)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "SWAPI entity " + type + "/" + id + " not found")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (SwapiThrottledException e) {
+            return throttled(e);
+        } catch (Exception e) {
+            System.err.println("Error fetching SWAPI entity " + type + "/" + id + ": " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("message", "Unable to reach SWAPI."));
+        }
+    }
+
+    private ResponseEntity<?> throttled(SwapiThrottledException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(Map.of("message", "SWAPI requests are being rate limited, retry later."));
+    }
+}
@@ -0,0 +1,45 @@
+package com.swapidashboard.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.swapidashboard.backend.model.User;
+import com.swapidashboard.backend.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class LoginResponse {
+    private String message;
+    private String token;
+    private UserData user;
+
+    public static LoginResponse of(User user, String token) {
+        return new LoginResponse("Login successful", token, new UserData(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole(),
+                user.isActive(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        ));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class UserData {
+        private UUID id;
+        private String username;
+        private String email;
+        private UserRole role;
+
+        @JsonProperty("isActive")
+        private boolean isActive;
+
+        private Instant createdAt;
+        private Instant updatedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.swapidashboard.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SwapiLimiterMetrics {
+    private double ratePerSecond;
+    private int interactiveQueueDepth;
+    private int backgroundQueueDepth;
+    private long pausedForMillis;
+    private long totalRequests;
+    private long throttledResponses;
+}
@@ -1,14 +1,9 @@
 package com.swapidashboard.backend.service;
 
+import com.swapidashboard.backend.dto.LoginResponse;
 import com.swapidashboard.backend.model.User;
 import com.swapidashboard.backend.repository.UserRepository;
 import com.swapidashboard.backend.security.JwtUtil;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -18,35 +13,37 @@ import java.util.Optional;
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    // Hash fittizio: se l'utente non esiste si verifica comunque una password,
+    // così i tempi di risposta non rivelano quali email sono registrate
+    private final String dummyPasswordHash;
 
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder
-            , AuthenticationManager authenticationManager
-            ,UserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.dummyPasswordHash = passwordEncoder.encode("dummy-password-for-timing");
     }
 
-    public Optional<User> authenticate(String email, String rawPassword) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(email, rawPassword)
-            );
-            return userRepository.findByUsernameOrEmail(email, email);
-        } catch(AuthenticationException e) {
-            System.err.println("Authentication failed for user " + email + ": " + e.getMessage());
+    // Una sola query e una sola verifica della password; il token viene firmato dallo stesso record
+    public Optional<LoginResponse> login(String email, String rawPassword) {
+        Optional<User> userOptional = userRepository.findByUsernameOrEmail(email, email);
+        if (userOptional.isEmpty()) {
+            passwordEncoder.matches(rawPassword, dummyPasswordHash);
+            System.err.println("Authentication failed for user " + email + ": user not found");
             return Optional.empty();
         }
-    }
-
-    public String generateTokenForUser(String email) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        return jwtUtil.generateToken(userDetails);
+        User user = userOptional.get();
+        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+            System.err.println("Authentication failed for user " + email + ": bad credentials");
+            return Optional.empty();
+        }
+        if (!user.isActive()) {
+            System.err.println("Authentication failed for user " + email + ": user is disabled");
+            return Optional.empty();
+        }
+        String token = jwtUtil.generateToken(UserService.toUserDetails(user));
+        return Optional.of(LoginResponse.of(user, token));
     }
 }
\ No newline at end of file
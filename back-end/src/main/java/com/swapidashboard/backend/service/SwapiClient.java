@@ -0,0 +1,99 @@
+package com.swapidashboard.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.swapidashboard.backend.service.SwapiRateLimiter.Priority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.function.Function;
+
+// Tutte le chiamate verso SWAPI passano da qui, e quindi dal rate limiter condiviso
+@Component
+public class SwapiClient {
+    private static final int MAX_ATTEMPTS = 4;
+
+    private final RestClient restClient;
+    private final SwapiRateLimiter rateLimiter;
+
+    public SwapiClient(RestClient.Builder restClientBuilder, SwapiRateLimiter rateLimiter,
+                       @Value("${swapi.base-url:https://www.swapi.tech/api}") String baseUrl) {
+        this.restClient = restClientBuilder.baseUrl(baseUrl).build();
+        this.rateLimiter = rateLimiter;
+    }
+
+    // Restituisce le "properties" dell'entità, vuoto se SWAPI risponde 404
+    public Optional<JsonNode> fetchProperties(String type, String id, Priority priority) {
+        return fetch(uri -> uri.path("/{type}/{id}").build(type, id), priority)
+                .map(body -> body.path("result").get("properties"));
+    }
+
+    public Optional<JsonNode> fetchPage(String type, int page, int limit, Priority priority) {
+        return fetch(uri -> uri.path("/{type}").queryParam("page", page).queryParam("limit", limit).build(type), priority);
+    }
+
+    private record SwapiResponse(boolean throttled, JsonNode body) {
+        static final SwapiResponse THROTTLED = new SwapiResponse(true, null);
+    }
+
+    private Optional<JsonNode> fetch(Function<UriBuilder, URI> uriFunction, Priority priority) {
+        // Una sola scadenza per tutti i tentativi, così una richiesta non tiene occupato il thread oltre max-wait-ms
+        long deadline = rateLimiter.deadlineFromNow();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            boolean rateBound;
+            try {
+                rateBound = rateLimiter.acquire(priority, deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the SWAPI rate limiter", e);
+            }
+            SwapiResponse result = restClient.get()
+                    .uri(uriFunction)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                            rateLimiter.onThrottled(parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+                            return SwapiResponse.THROTTLED; // riprova dopo la pausa imposta dal limiter
+                        }
+                        if (response.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                            rateLimiter.onSuccess(rateBound);
+                            return new SwapiResponse(false, null);
+                        }
+                        if (response.getStatusCode().isError()) {
+                            throw new IllegalStateException("SWAPI request " + request.getURI() + " failed with status " + response.getStatusCode().value());
+                        }
+                        rateLimiter.onSuccess(rateBound);
+                        return new SwapiResponse(false, response.bodyTo(JsonNode.class));
+                    });
+            if (!result.throttled()) {
+                return Optional.ofNullable(result.body());
+            }
+        }
+        throw new SwapiThrottledException("SWAPI kept answering 429 after " + MAX_ATTEMPTS + " attempts", rateLimiter.retryAfter());
+    }
+
+    // Retry-After può essere in secondi o una data HTTP
+    static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
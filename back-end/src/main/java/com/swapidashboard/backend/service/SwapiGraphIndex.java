@@ -0,0 +1,72 @@
+package com.swapidashboard.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Indice in memoria delle entità SWAPI (chiave "type/id") e dei riferimenti URL tra di esse
+@Component
+public class SwapiGraphIndex {
+    private static final Pattern ENTITY_URL = Pattern.compile("^https?://[^/]+/api/([a-z]+)/(\\d+)/?$");
+
+    private final Map<String, JsonNode> entities = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<String>>> references = new ConcurrentHashMap<>();
+
+    public static String keyOf(String type, String id) {
+        return type + "/" + id;
+    }
+
+    public static Optional<String> keyOf(String url) {
+        Matcher matcher = ENTITY_URL.matcher(url);
+        return matcher.matches() ? Optional.of(keyOf(matcher.group(1), matcher.group(2))) : Optional.empty();
+    }
+
+    public Optional<JsonNode> get(String key) {
+        return Optional.ofNullable(entities.get(key));
+    }
+
+    public void put(String key, JsonNode properties) {
+        references.put(key, extractReferences(properties));
+        entities.put(key, properties);
+    }
+
+    // Campo -> chiavi delle entità collegate (es. "homeworld" -> ["planets/1"])
+    public Map<String, List<String>> referencesOf(String key) {
+        return references.getOrDefault(key, Map.of());
+    }
+
+    private Map<String, List<String>> extractReferences(JsonNode properties) {
+        Map<String, List<String>> fieldReferences = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if ("url".equals(field.getKey())) {
+                continue; // self reference
+            }
+            List<String> targets = new ArrayList<>();
+            JsonNode value = field.getValue();
+            if (value.isTextual()) {
+                keyOf(value.asText()).ifPresent(targets::add);
+            } else if (value.isArray()) {
+                value.forEach(item -> {
+                    if (item.isTextual()) {
+                        keyOf(item.asText()).ifPresent(targets::add);
+                    }
+                });
+            }
+            if (!targets.isEmpty()) {
+                fieldReferences.put(field.getKey(), List.copyOf(targets));
+            }
+        }
+        return Map.copyOf(fieldReferences);
+    }
+}
@@ -0,0 +1,138 @@
+package com.swapidashboard.backend.service;
+
+import com.swapidashboard.backend.dto.SwapiLimiterMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Limiter globale AIMD per tutto il traffico verso SWAPI: aumenta il rate dopo le risposte andate
+// a buon fine quando era il rate a limitare la richiesta e lo dimezza sui 429, rispettando l'eventuale Retry-After.
+@Component
+public class SwapiRateLimiter {
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final long maxWaitNanos;
+
+    private double ratePerSecond;
+    private long nextPermitNanos;
+    private long pausedUntilNanos;
+    private long lastDecreaseNanos;
+    private int interactiveWaiting;
+    private int backgroundWaiting;
+    private long totalRequests;
+    private long throttledResponses;
+
+    public SwapiRateLimiter(@Value("${swapi.limiter.initial-rate:5}") double initialRate,
+                            @Value("${swapi.limiter.min-rate:0.5}") double minRate,
+                            @Value("${swapi.limiter.max-rate:20}") double maxRate,
+                            @Value("${swapi.limiter.max-wait-ms:30000}") long maxWaitMillis) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.ratePerSecond = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        long now = System.nanoTime();
+        this.nextPermitNanos = now;
+        this.pausedUntilNanos = now;
+        this.lastDecreaseNanos = now - NANOS_PER_SECOND;
+    }
+
+    // Scadenza dell'attesa massima, da condividere tra i tentativi di una stessa richiesta
+    public long deadlineFromNow() {
+        return System.nanoTime() + maxWaitNanos;
+    }
+
+    public boolean acquire(Priority priority) throws InterruptedException {
+        return acquire(priority, deadlineFromNow());
+    }
+
+    // Blocca finché non c'è un permesso; le richieste in background cedono il passo a quelle interattive.
+    // Se il permesso arriverebbe comunque dopo la scadenza si fallisce subito invece di attendere invano.
+    // Restituisce true se la richiesta ha dovuto attendere il rate, cioè se il rate corrente è stato messo alla prova.
+    public synchronized boolean acquire(Priority priority, long deadline) throws InterruptedException {
+        boolean rateBound = false;
+        if (priority == Priority.INTERACTIVE) {
+            interactiveWaiting++;
+        } else {
+            backgroundWaiting++;
+        }
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                if (now - deadline >= 0) {
+                    throw new SwapiThrottledException("Timed out waiting for a SWAPI rate limiter permit", retryAfter());
+                }
+                boolean yieldToInteractive = priority == Priority.BACKGROUND && interactiveWaiting > 0;
+                long readyAt = Math.max(nextPermitNanos, pausedUntilNanos);
+                if (!yieldToInteractive && now - readyAt >= 0) {
+                    nextPermitNanos = Math.max(now, nextPermitNanos) + (long) (NANOS_PER_SECOND / ratePerSecond);
+                    totalRequests++;
+                    return rateBound;
+                }
+                if (!yieldToInteractive && readyAt - deadline > 0) {
+                    throw new SwapiThrottledException("No SWAPI rate limiter permit available before the deadline", retryAfter());
+                }
+                if (nextPermitNanos - now > 0) {
+                    rateBound = true;
+                }
+                long waitNanos = yieldToInteractive ? deadline - now : readyAt - now;
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, 1));
+            }
+        } finally {
+            if (priority == Priority.INTERACTIVE) {
+                interactiveWaiting--;
+            } else {
+                backgroundWaiting--;
+            }
+            notifyAll();
+        }
+    }
+
+    // Additive increase: circa +1 richiesta/s per ogni secondo di traffico senza 429.
+    // Con poco traffico il rate non viene raggiunto e non c'è motivo di alzarlo senza averlo provato.
+    public synchronized void onSuccess(boolean rateBound) {
+        if (!rateBound) {
+            return;
+        }
+        ratePerSecond = Math.min(maxRate, ratePerSecond + 1.0 / ratePerSecond);
+    }
+
+    // Multiplicative decrease, al massimo una volta per secondo per non crollare su una raffica di 429
+    public synchronized void onThrottled(Duration retryAfter) {
+        long now = System.nanoTime();
+        throttledResponses++;
+        if (now - lastDecreaseNanos >= NANOS_PER_SECOND) {
+            ratePerSecond = Math.max(minRate, ratePerSecond / 2);
+            lastDecreaseNanos = now;
+        }
+        long pauseNanos = retryAfter != null ? retryAfter.toNanos() : (long) (NANOS_PER_SECOND / ratePerSecond);
+        pausedUntilNanos = Math.max(pausedUntilNanos, now + pauseNanos);
+        notifyAll();
+    }
+
+    // Tempo stimato prima del prossimo permesso, arrotondato per eccesso al secondo (minimo 1s)
+    public synchronized Duration retryAfter() {
+        long waitNanos = Math.max(0, Math.max(nextPermitNanos, pausedUntilNanos) - System.nanoTime());
+        return Duration.ofSeconds(Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+    }
+
+    public synchronized SwapiLimiterMetrics metrics() {
+        long pausedForNanos = Math.max(0, pausedUntilNanos - System.nanoTime());
+        return new SwapiLimiterMetrics(
+                ratePerSecond,
+                interactiveWaiting,
+                backgroundWaiting,
+                TimeUnit.NANOSECONDS.toMillis(pausedForNanos),
+                totalRequests,
+                throttledResponses
+        );
+    }
+}
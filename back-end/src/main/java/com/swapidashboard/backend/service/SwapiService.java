@@ -0,0 +1,99 @@
+package com.swapidashboard.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.swapidashboard.backend.dto.SwapiLimiterMetrics;
+import com.swapidashboard.backend.service.SwapiRateLimiter.Priority;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class SwapiService {
+    public static final Set<String> ENTITY_TYPES = Set.of("people", "planets", "films", "species", "starships", "vehicles");
+    public static final int MAX_DEPTH = 2;
+
+    private final SwapiClient swapiClient;
+    private final SwapiGraphIndex graphIndex;
+    private final SwapiRateLimiter rateLimiter;
+
+    public SwapiService(SwapiClient swapiClient, SwapiGraphIndex graphIndex, SwapiRateLimiter rateLimiter) {
+        this.swapiClient = swapiClient;
+        this.graphIndex = graphIndex;
+        this.rateLimiter = rateLimiter;
+    }
+
+    // Le pagine vengono scaricate in background, quindi cedono il passo alle richieste di dettaglio
+    public Optional<JsonNode> getPage(String type, int page, int limit) {
+        validateType(type);
+        if (page < 1 || limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("Page must be at least 1 and limit between 1 and 100");
+        }
+        return swapiClient.fetchPage(type, page, limit, Priority.BACKGROUND);
+    }
+
+    // Le richieste di dettaglio sono interattive, salvo quelle fatte durante lo scaricamento delle pagine
+    public Optional<JsonNode> getEntity(String type, String id, Set<String> expand, int depth, Priority priority) {
+        validateType(type);
+        if (!id.matches("\\d+")) {
+            throw new IllegalArgumentException("Invalid SWAPI entity id: " + id);
+        }
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 0 and " + MAX_DEPTH);
+        }
+        String key = SwapiGraphIndex.keyOf(type, id);
+        return resolve(key, priority).map(properties -> expand(key, properties, expand, depth, priority));
+    }
+
+    public SwapiLimiterMetrics getLimiterMetrics() {
+        return rateLimiter.metrics();
+    }
+
+    private void validateType(String type) {
+        if (!ENTITY_TYPES.contains(type)) {
+            throw new IllegalArgumentException("Unknown SWAPI entity type: " + type);
+        }
+    }
+
+    private Optional<JsonNode> resolve(String key, Priority priority) {
+        Optional<JsonNode> indexed = graphIndex.get(key);
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+        String[] typeAndId = key.split("/");
+        Optional<JsonNode> fetched = swapiClient.fetchProperties(typeAndId[0], typeAndId[1], priority);
+        fetched.ifPresent(properties -> graphIndex.put(key, properties));
+        return fetched;
+    }
+
+    // Sostituisce gli URL dei campi richiesti con le entità collegate, fino a "depth" livelli
+    private JsonNode expand(String key, JsonNode properties, Set<String> fields, int depth, Priority priority) {
+        if (depth == 0 || fields.isEmpty()) {
+            return properties;
+        }
+        ObjectNode expanded = properties.deepCopy();
+        for (Map.Entry<String, List<String>> reference : graphIndex.referencesOf(key).entrySet()) {
+            String field = reference.getKey();
+            if (!fields.contains(field)) {
+                continue;
+            }
+            if (properties.get(field).isArray()) {
+                // Come per i campi singoli, un'entità assente upstream resta come URL nella sua posizione
+                ArrayNode related = expanded.putArray(field);
+                for (JsonNode item : properties.get(field)) {
+                    related.add(SwapiGraphIndex.keyOf(item.asText())
+                            .flatMap(target -> resolve(target, priority).map(node -> expand(target, node, fields, depth - 1, priority)))
+                            .orElse(item));
+                }
+            } else {
+                String target = reference.getValue().get(0);
+                resolve(target, priority).ifPresent(node -> expanded.set(field, expand(target, node, fields, depth - 1, priority)));
+            }
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,17 @@
+package com.swapidashboard.backend.service;
+
+import java.time.Duration;
+
+// Il backend sta limitando di proposito il traffico verso SWAPI: il client deve riprovare dopo retryAfter
+public class SwapiThrottledException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public SwapiThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -34,6 +34,10 @@ public class UserService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByUsernameOrEmail(email, email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email or username: " + email));
+        return toUserDetails(user);
+    }
+
+    public static UserDetails toUserDetails(User user) {
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name().toUpperCase()));
         return new org.springframework.security.core.userdetails.User(
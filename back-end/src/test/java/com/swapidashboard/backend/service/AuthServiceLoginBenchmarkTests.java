@@ -0,0 +1,108 @@
+package com.swapidashboard.backend.service;
+
+import com.swapidashboard.backend.dto.LoginResponse;
+import com.swapidashboard.backend.model.User;
+import com.swapidashboard.backend.model.UserRole;
+import com.swapidashboard.backend.repository.UserRepository;
+import com.swapidashboard.backend.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class AuthServiceLoginBenchmarkTests {
+    private static final String EMAIL = "benchmark@swapi.dev";
+    private static final String PASSWORD = "benchmark-password";
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private AuthenticationManager authenticationManager;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByUsernameOrEmail(EMAIL, EMAIL).isEmpty()) {
+            User user = new User();
+            user.setUsername("benchmark");
+            user.setEmail(EMAIL);
+            user.setPassword(passwordEncoder.encode(PASSWORD));
+            user.setRole(UserRole.viewer);
+            user.setActive(true);
+            userRepository.save(user);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loginRejectsWrongPasswordAndUnknownUser() {
+        assertTrue(authService.login(EMAIL, "wrong-password").isEmpty());
+        assertTrue(authService.login("nobody@swapi.dev", PASSWORD).isEmpty());
+    }
+
+    @Test
+    void loginResolvesUserOnceAndSignsTokenFromSameRecord() {
+        Optional<LoginResponse> response = authService.login(EMAIL, PASSWORD);
+
+        assertTrue(response.isPresent());
+        assertEquals(EMAIL, response.get().getUser().getEmail());
+        assertEquals(EMAIL, jwtUtil.extractUsername(response.get().getToken()));
+    }
+
+    @Test
+    void benchmarkSingleLookupLoginAgainstPreviousPipeline() {
+        // Warm-up di entrambi i percorsi
+        previousLogin();
+        authService.login(EMAIL, PASSWORD);
+
+        statistics.clear();
+        for (int i = 0; i < ITERATIONS; i++) {
+            previousLogin();
+        }
+        long previousQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        for (int i = 0; i < ITERATIONS; i++) {
+            authService.login(EMAIL, PASSWORD);
+        }
+        long singleLookupQueries = statistics.getPrepareStatementCount();
+
+        assertEquals(3L * ITERATIONS, previousQueries);
+        assertEquals(ITERATIONS, singleLookupQueries);
+    }
+
+    // Il percorso precedente: AuthenticationManager, poi di nuovo il repository, poi loadUserByUsername per il token
+    private void previousLogin() {
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+        userRepository.findByUsernameOrEmail(EMAIL, EMAIL).orElseThrow();
+        jwtUtil.generateToken(userDetailsService.loadUserByUsername(EMAIL));
+    }
+}
@@ -0,0 +1,37 @@
+package com.swapidashboard.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwapiClientTests {
+
+    @Test
+    void parsesNumericRetryAfter() {
+        assertEquals(Duration.ofSeconds(120), SwapiClient.parseRetryAfter("120"));
+        assertEquals(Duration.ofSeconds(5), SwapiClient.parseRetryAfter(" 5 "));
+    }
+
+    @Test
+    void parsesHttpDateRetryAfter() {
+        String inThirtySeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        Duration retryAfter = SwapiClient.parseRetryAfter(inThirtySeconds);
+
+        assertNotNull(retryAfter);
+        assertTrue(retryAfter.toSeconds() >= 28 && retryAfter.toSeconds() <= 30);
+        assertEquals(Duration.ZERO, SwapiClient.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @Test
+    void ignoresMissingOrInvalidRetryAfter() {
+        assertNull(SwapiClient.parseRetryAfter(null));
+        assertNull(SwapiClient.parseRetryAfter("  "));
+        assertNull(SwapiClient.parseRetryAfter("soon"));
+        assertNull(SwapiClient.parseRetryAfter("2015-10-21T07:28:00Z"));
+    }
+}
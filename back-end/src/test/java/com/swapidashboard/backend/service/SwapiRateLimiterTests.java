@@ -0,0 +1,150 @@
+package com.swapidashboard.backend.service;
+
+import com.swapidashboard.backend.service.SwapiRateLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwapiRateLimiterTests {
+
+    @Test
+    void rateBoundSuccessesIncreaseRateAdditivelyUpToMaxRate() {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(1, 0.5, 3, 1000);
+
+        limiter.onSuccess(true);
+        assertEquals(2.0, rate(limiter), 1e-9);
+        limiter.onSuccess(true);
+        assertEquals(2.5, rate(limiter), 1e-9);
+        for (int i = 0; i < 20; i++) {
+            limiter.onSuccess(true);
+        }
+        assertEquals(3.0, rate(limiter), 1e-9);
+    }
+
+    @Test
+    void onlyPermitsThatWaitedForTheRateRaiseIt() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(5, 0.5, 20, 1000);
+
+        // Traffico leggero: il permesso è subito disponibile e il rate non viene alzato
+        boolean rateBound = limiter.acquire(Priority.INTERACTIVE);
+        limiter.onSuccess(rateBound);
+        assertFalse(rateBound);
+        assertEquals(5.0, rate(limiter), 1e-9);
+
+        // Richiesta immediatamente successiva: attende il prossimo permesso, quindi il rate era il limite
+        rateBound = limiter.acquire(Priority.INTERACTIVE);
+        limiter.onSuccess(rateBound);
+        assertTrue(rateBound);
+        assertEquals(5.2, rate(limiter), 1e-9);
+    }
+
+    @Test
+    void throttlingHalvesRateAtMostOncePerSecond() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(8, 0.5, 20, 1000);
+
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(4.0, rate(limiter), 1e-9);
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(4.0, rate(limiter), 1e-9);
+        assertEquals(2, limiter.metrics().getThrottledResponses());
+
+        Thread.sleep(1050);
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(2.0, rate(limiter), 1e-9);
+    }
+
+    @Test
+    void throttlingNeverGoesBelowMinRate() {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(4, 3, 20, 1000);
+
+        limiter.onThrottled(Duration.ZERO);
+
+        assertEquals(3.0, rate(limiter), 1e-9);
+    }
+
+    @Test
+    void retryAfterPauseBlocksAcquire() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(20, 0.5, 20, 5000);
+
+        limiter.onThrottled(Duration.ofMillis(400));
+        assertTrue(limiter.metrics().getPausedForMillis() > 0);
+        long start = System.nanoTime();
+        limiter.acquire(Priority.INTERACTIVE);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 350);
+    }
+
+    @Test
+    void backgroundWaitersYieldToQueuedInteractiveRequests() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(20, 0.5, 20, 5000);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        limiter.onThrottled(Duration.ofMillis(500));
+
+        Thread background = acquireInThread(limiter, Priority.BACKGROUND, "background", order);
+        awaitCondition(() -> limiter.metrics().getBackgroundQueueDepth() == 1);
+        Thread interactive = acquireInThread(limiter, Priority.INTERACTIVE, "interactive", order);
+        awaitCondition(() -> limiter.metrics().getInteractiveQueueDepth() == 1);
+        background.join();
+        interactive.join();
+
+        assertEquals(List.of("interactive", "background"), order);
+    }
+
+    @Test
+    void acquireTimesOutWithRetryAfterHint() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(0.5, 0.5, 20, 200);
+        limiter.acquire(Priority.INTERACTIVE);
+
+        long start = System.nanoTime();
+        SwapiThrottledException e = assertThrows(SwapiThrottledException.class, () -> limiter.acquire(Priority.INTERACTIVE));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertTrue(e.getRetryAfter().toSeconds() >= 1);
+        assertEquals(0, limiter.metrics().getInteractiveQueueDepth());
+    }
+
+    @Test
+    void successiveAcquiresShareOneDeadlineAndFailFastPastIt() throws InterruptedException {
+        SwapiRateLimiter limiter = new SwapiRateLimiter(5, 0.5, 20, 30000);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+
+        limiter.acquire(Priority.INTERACTIVE, deadline);
+        limiter.acquire(Priority.INTERACTIVE, deadline); // il secondo permesso arriva dopo 200ms, entro la scadenza
+
+        long start = System.nanoTime();
+        assertThrows(SwapiThrottledException.class, () -> limiter.acquire(Priority.INTERACTIVE, deadline));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 50);
+    }
+
+    private static double rate(SwapiRateLimiter limiter) {
+        return limiter.metrics().getRatePerSecond();
+    }
+
+    private static Thread acquireInThread(SwapiRateLimiter limiter, Priority priority, String name, List<String> order) {
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire(priority);
+                order.add(name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
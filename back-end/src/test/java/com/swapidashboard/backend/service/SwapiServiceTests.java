@@ -0,0 +1,133 @@
+package com.swapidashboard.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swapidashboard.backend.service.SwapiRateLimiter.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SwapiServiceTests {
+    private static final String BASE = "https://www.swapi.tech/api/";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SwapiClient swapiClient;
+    private SwapiGraphIndex graphIndex;
+    private SwapiService swapiService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        swapiClient = mock(SwapiClient.class);
+        graphIndex = new SwapiGraphIndex();
+        swapiService = new SwapiService(swapiClient, graphIndex, new SwapiRateLimiter(5, 0.5, 20, 1000));
+
+        when(swapiClient.fetchProperties(anyString(), anyString(), any())).thenReturn(Optional.empty());
+        stub("species", "1", "{\"name\":\"Human\",\"homeworld\":\"" + BASE + "planets/1\","
+                + "\"people\":[\"" + BASE + "people/1\",\"" + BASE + "people/4\",\"" + BASE + "people/99\"],"
+                + "\"url\":\"" + BASE + "species/1\"}");
+        stub("planets", "1", "{\"name\":\"Tatooine\",\"url\":\"" + BASE + "planets/1\"}");
+        stub("people", "1", "{\"name\":\"Luke\",\"homeworld\":\"" + BASE + "planets/1\",\"url\":\"" + BASE + "people/1\"}");
+        stub("people", "4", "{\"name\":\"Vader\",\"homeworld\":\"" + BASE + "planets/1\",\"url\":\"" + BASE + "people/4\"}");
+    }
+
+    private void stub(String type, String id, String json) throws Exception {
+        when(swapiClient.fetchProperties(type, id, Priority.INTERACTIVE)).thenReturn(Optional.of(MAPPER.readTree(json)));
+    }
+
+    @Test
+    void keyOfParsesEntityUrls() {
+        assertEquals(Optional.of("planets/1"), SwapiGraphIndex.keyOf(BASE + "planets/1"));
+        assertEquals(Optional.of("people/12"), SwapiGraphIndex.keyOf("https://swapi.tech/api/people/12/"));
+        assertEquals(Optional.empty(), SwapiGraphIndex.keyOf(BASE + "people"));
+        assertEquals(Optional.empty(), SwapiGraphIndex.keyOf(BASE + "people/abc"));
+        assertEquals(Optional.empty(), SwapiGraphIndex.keyOf("Tatooine"));
+    }
+
+    @Test
+    void indexSkipsSelfReferenceAndKeepsScalarAndArrayRelations() {
+        swapiService.getEntity("species", "1", Set.of(), 1, Priority.INTERACTIVE);
+
+        Map<String, List<String>> references = graphIndex.referencesOf("species/1");
+        assertFalse(references.containsKey("url"));
+        assertEquals(List.of("planets/1"), references.get("homeworld"));
+        assertEquals(List.of("people/1", "people/4", "people/99"), references.get("people"));
+    }
+
+    @Test
+    void expandsScalarAndArrayRelationsAndKeepsUrlsOfMissingEntities() {
+        JsonNode species = swapiService.getEntity("species", "1", Set.of("homeworld", "people"), 1, Priority.INTERACTIVE).orElseThrow();
+
+        assertEquals("Tatooine", species.get("homeworld").get("name").asText());
+        assertTrue(species.get("people").isArray());
+        assertEquals(3, species.get("people").size());
+        assertEquals("Luke", species.get("people").get(0).get("name").asText());
+        assertEquals(BASE + "planets/1", species.get("people").get(0).get("homeworld").asText());
+        assertEquals("Vader", species.get("people").get(1).get("name").asText());
+        assertEquals(BASE + "people/99", species.get("people").get(2).asText()); // people/99 non esiste upstream
+    }
+
+    @Test
+    void keepsUrlWhenScalarRelationIsMissingUpstream() throws Exception {
+        stub("people", "7", "{\"name\":\"Nobody\",\"homeworld\":\"" + BASE + "planets/404\"}");
+
+        JsonNode person = swapiService.getEntity("people", "7", Set.of("homeworld"), 1, Priority.INTERACTIVE).orElseThrow();
+
+        assertEquals(BASE + "planets/404", person.get("homeworld").asText());
+    }
+
+    @Test
+    void depthZeroReturnsPropertiesUnexpanded() {
+        JsonNode species = swapiService.getEntity("species", "1", Set.of("homeworld", "people"), 0, Priority.INTERACTIVE).orElseThrow();
+
+        assertEquals(BASE + "planets/1", species.get("homeworld").asText());
+        verify(swapiClient, times(1)).fetchProperties(anyString(), anyString(), any());
+    }
+
+    @Test
+    void depthTwoExpandsRelationsOfRelatedEntities() {
+        JsonNode species = swapiService.getEntity("species", "1", Set.of("homeworld", "people"), 2, Priority.INTERACTIVE).orElseThrow();
+
+        assertEquals("Tatooine", species.get("people").get(1).get("homeworld").get("name").asText());
+    }
+
+    @Test
+    void missingEntityReturnsEmpty() {
+        assertTrue(swapiService.getEntity("starships", "3", Set.of(), 1, Priority.INTERACTIVE).isEmpty());
+    }
+
+    @Test
+    void repeatedCallsAreServedFromTheIndex() {
+        swapiService.getEntity("species", "1", Set.of("homeworld", "people"), 2, Priority.INTERACTIVE);
+        swapiService.getEntity("species", "1", Set.of("homeworld", "people"), 2, Priority.INTERACTIVE);
+        swapiService.getEntity("people", "4", Set.of("homeworld"), 1, Priority.INTERACTIVE);
+
+        verify(swapiClient, times(1)).fetchProperties("species", "1", Priority.INTERACTIVE);
+        verify(swapiClient, times(1)).fetchProperties("planets", "1", Priority.INTERACTIVE);
+        verify(swapiClient, times(1)).fetchProperties("people", "4", Priority.INTERACTIVE);
+    }
+
+    @Test
+    void passesRequestedPriorityToTheClient() {
+        swapiService.getEntity("people", "1", Set.of(), 1, Priority.BACKGROUND);
+
+        verify(swapiClient).fetchProperties("people", "1", Priority.BACKGROUND);
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> swapiService.getEntity("droids", "1", Set.of(), 1, Priority.INTERACTIVE));
+        assertThrows(IllegalArgumentException.class, () -> swapiService.getEntity("people", "abc", Set.of(), 1, Priority.INTERACTIVE));
+        assertThrows(IllegalArgumentException.class, () -> swapiService.getEntity("people", "1", Set.of(), -1, Priority.INTERACTIVE));
+        assertThrows(IllegalArgumentException.class, () -> swapiService.getEntity("people", "1", Set.of(), SwapiService.MAX_DEPTH + 1, Priority.INTERACTIVE));
+        verifyNoInteractions(swapiClient);
+    }
+}
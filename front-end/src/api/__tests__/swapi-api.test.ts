@@ -0,0 +1,20 @@
+import { toSwapiProxyUrl } from "@/api/swapi-api";
+
+describe('toSwapiProxyUrl', () => {
+    it('rewrites swapi.tech page urls to the back-end proxy', () => {
+        expect(toSwapiProxyUrl('https://www.swapi.tech/api/people?page=2&limit=10'))
+            .toBe('http://localhost:8080/api/swapi/people?page=2&limit=10');
+        expect(toSwapiProxyUrl('https://swapi.tech/api/species/'))
+            .toBe('http://localhost:8080/api/swapi/species');
+    });
+
+    it('adds the priority to entity urls', () => {
+        expect(toSwapiProxyUrl('https://www.swapi.tech/api/people/1', 'BACKGROUND'))
+            .toBe('http://localhost:8080/api/swapi/people/1?priority=BACKGROUND');
+    });
+
+    it('leaves other urls untouched', () => {
+        expect(toSwapiProxyUrl('https://swapi.py4e.com/api/people/1/')).toBe('https://swapi.py4e.com/api/people/1/');
+        expect(toSwapiProxyUrl('')).toBe('');
+    });
+});
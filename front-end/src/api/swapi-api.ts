@@ -0,0 +1,32 @@
+const API_BASE_URL_SWAPI = 'http://localhost:8080/api/swapi' as const;
+
+export type SwapiPriority = 'INTERACTIVE' | 'BACKGROUND';
+
+// Rewrites a swapi.tech URL to the back-end proxy, which routes every request through the shared rate limiter.
+export const toSwapiProxyUrl = (url: string, priority?: SwapiPriority): string => {
+    let parsed: URL;
+    try {
+        parsed = new URL(url);
+    } catch {
+        return url;
+    }
+    if (!/(^|\.)swapi\.tech$/.test(parsed.hostname) || !parsed.pathname.startsWith('/api/')) {
+        return url;
+    }
+    const path = parsed.pathname.slice('/api'.length).replace(/\/+$/, '');
+    const proxied = new URL(API_BASE_URL_SWAPI + path);
+    parsed.searchParams.forEach((value, key) => proxied.searchParams.set(key, value));
+    if (priority) {
+        proxied.searchParams.set('priority', priority);
+    }
+    return proxied.toString();
+};
+
+export const swapiFetch = (url: string, priority?: SwapiPriority): Promise<Response> => {
+    const token = localStorage.getItem('authToken');
+    const headers: Record<string, string> = {};
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+    return fetch(toSwapiProxyUrl(url, priority), { headers });
+};
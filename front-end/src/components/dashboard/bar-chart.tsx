@@ -3,6 +3,7 @@ import { useTranslation } from "react-i18next";
 import {useCallback, useEffect, useMemo, useRef, useState} from "react";
 import { toast } from "sonner";
 import { fetchWithRetry } from "@/hooks/use-swapi";
+import {swapiFetch} from "@/api/swapi-api";
 import { LoaderSpinner } from "@/components/layout/loader-spinner";
 import { useQuery, useQueryClient } from "@tanstack/react-query";
 import { useTheme} from "@/hooks/theme-hooks";
@@ -20,11 +21,9 @@ export interface CharacterGender {
     url: string;
 }
 
-const sleep = (ms: number) => new Promise((res) => setTimeout(res, ms));
-
 const fetchTotalRecordsPeople = async (): Promise<number> => {
     try {
-        const response = await fetch("https://www.swapi.tech/api/people");
+        const response = await swapiFetch("https://www.swapi.tech/api/people");
 
         if (!response.ok) {
             throw new Error(`Request failed with status: ${response.status}`);
@@ -44,12 +43,12 @@ const fetchTotalPages = async (): Promise<number | null> => {
     const endpoint = "https://www.swapi.tech/api/people";
 
     try {
-        const response = await fetch(endpoint);
+        const response = await swapiFetch(endpoint);
 
         if (!response.ok) {
             const errorMsg = `Error fetching total_pages: ${response.status} ${response.statusText}`;
 
-            if (response.status === 429) {
+            if (response.status === 429 || response.status === 503) {
                 console.warn("Rate limit reached while fetching total_pages.");
                 return null;
             }
@@ -69,8 +68,7 @@ const fetchTotalPages = async (): Promise<number | null> => {
 
 
 const fetchGenderDetailsBatch = async (
-    characters: { uid: string, name: string, url: string }[],
-    delayBetweenBatches: number,
+    characters: { uid: string, name: string, url: string }[]
 ): Promise<{ successfulGenders: CharacterGender[]; failedCount: number }> => {
     const successfulGenders: CharacterGender[] = [];
     let currentFailedCount = 0;
@@ -85,7 +83,7 @@ const fetchGenderDetailsBatch = async (
             }
             try {
                 const data = await res.json();
-                const gender = data.result.properties.gender?.toLowerCase() || 'unknown';
+                const gender = data.gender?.toLowerCase() || 'unknown';
                 return {
                     uid: character.uid,
                     name: character.name,
@@ -108,10 +106,6 @@ const fetchGenderDetailsBatch = async (
                 currentFailedCount++;
             }
         });
-
-        if (i + batchSize < characters.length) {
-            await sleep(delayBetweenBatches);
-        }
     }
 
     return { successfulGenders, failedCount: currentFailedCount };
@@ -149,7 +143,7 @@ const useGenderData = (page: number, limit: number, t: (key: string, options?: R
                 };
             });
 
-            const { successfulGenders: gendersFromPage, failedCount } = await fetchGenderDetailsBatch(characters, 1000);
+            const { successfulGenders: gendersFromPage, failedCount } = await fetchGenderDetailsBatch(characters);
 
             if (failedCount > 0) {
                 toast.warning(t("failedGenderCount", { count: failedCount, page: page }));
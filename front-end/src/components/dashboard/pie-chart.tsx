@@ -4,6 +4,7 @@ import {useTranslation} from "react-i18next";
 import React, {useCallback, useEffect, useMemo, useRef, useState} from "react";
 import {toast} from "sonner";
 import {fetchWithRetry} from "@/hooks/use-swapi";
+import {swapiFetch} from "@/api/swapi-api";
 import {LoaderSpinner} from "@/components/layout/loader-spinner.tsx";
 import {useQuery, useQueryClient} from "@tanstack/react-query";
 import {useClickOutside} from "@/hooks/use-click-outside";
@@ -12,8 +13,6 @@ import { Tooltip, TooltipContent, TooltipTrigger } from "@/components/ui/tooltip
 import {Button} from "@/components/ui/button.tsx";
 import {Download} from "lucide-react";
 
-const sleep = (ms: number) => new Promise((res) => setTimeout(res, ms));
-
 export interface ChartComponentProps {
     excludedRef: React.RefObject<HTMLDivElement | null>;
 }
@@ -27,7 +26,7 @@ export interface CharacterMass {
 
 const fetchTotalRecords = async (): Promise<number> => {
     const url = "https://www.swapi.tech/api/people";
-    const res = await fetch(url);
+    const res = await swapiFetch(url);
     if (!res.ok) throw new Error(`Failed to fetch: ${res.status}`);
     const data = await res.json();
     return data.total_records;
@@ -37,7 +36,7 @@ const fetchTotalPages = async (): Promise<number | null> => {
     const url = "https://www.swapi.tech/api/people";
 
     try {
-        const res = await fetch(url);
+        const res = await swapiFetch(url);
 
         if (res.ok) {
             const data = await res.json();
@@ -45,7 +44,7 @@ const fetchTotalPages = async (): Promise<number | null> => {
         }
 
         const msg = `Error fetching total_pages: ${res.status} ${res.statusText}`;
-        if (res.status === 429) {
+        if (res.status === 429 || res.status === 503) {
             console.warn("Rate limit hit when fetching total_pages");
             return null;
         }
@@ -59,8 +58,7 @@ const fetchTotalPages = async (): Promise<number | null> => {
 };
 
 const fetchMassDetailsBatch = async (
-    characters: { uid: string, name: string, url: string }[],
-    delayBetweenBatches: number,
+    characters: { uid: string, name: string, url: string }[]
 ): Promise<{ successfulMasses: CharacterMass[]; failedCount: number }> => {
     const successfulMasses: CharacterMass[] = [];
     let currentFailedCount = 0;
@@ -75,7 +73,7 @@ const fetchMassDetailsBatch = async (
             }
             try {
                 const data = await res.json();
-                const mass = data.result.properties.mass;
+                const mass = data.mass;
                 const massValue = mass === "unknown" ? -1 : parseFloat(mass.replace(/,/g, ''));
                 if (isNaN(massValue)) {
                     return null;
@@ -102,10 +100,6 @@ const fetchMassDetailsBatch = async (
                 currentFailedCount++;
             }
         });
-
-        if (i + batchSize < characters.length) {
-            await sleep(delayBetweenBatches);
-        }
     }
 
     return { successfulMasses, failedCount: currentFailedCount };
@@ -179,7 +173,7 @@ const useMassData = (page: number, limit: number, t: (key: string, options?: Rec
                 };
             });
 
-            const { successfulMasses: massesFromPage, failedCount } = await fetchMassDetailsBatch(characters, 1000);
+            const { successfulMasses: massesFromPage, failedCount } = await fetchMassDetailsBatch(characters);
 
             if (failedCount > 0) {
                 toast.warning(t("failedMassCount", { count: failedCount, page: page }));
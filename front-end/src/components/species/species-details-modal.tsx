@@ -9,6 +9,7 @@ import {LoaderSpinner} from "@/components/layout/loader-spinner";
 import {useFavoritesSpecies} from "@/hooks/use-favorites";
 import {Heart} from "lucide-react";
 import i18n from "i18next";
+import {swapiFetch} from "@/api/swapi-api";
 
 interface SpeciesDetailsModalProps {
     species: Species | null;
@@ -30,31 +31,14 @@ const useSpeciesDetails = (species: Species | null) => {
             if(!id || !species) {
                 throw new Error("Species ID or species data is not available");
             }
-            const fetchPeopleUrls = async (urls: string[]) => {
-                return Promise.allSettled(
-                    urls.map(async (url) => {
-                        try {
-                            console.log(`Fetching data from ${url}`);
-                            const response = await fetch(url);
-
-                            return response.ok
-                                ? await response.json()
-                                : (() => { throw new Error(`Error fetching ${url}: ${response.status}`); })();
-                        } catch (error) {
-                            console.error(`Failed to fetch ${url}:`, error);
-                            throw error;
-                        }
-                    })
-                );
-            };
-
-            const speciesData = await fetchPeopleUrls(species.people || []);
-            const homeworldData = await fetch(species.homeworld || '');
+            const response = await swapiFetch(`${species.url}?expand=homeworld,people`, 'INTERACTIVE');
+            if (!response.ok) {
+                throw new Error(`Error fetching species ${id}: ${response.status}`);
+            }
+            const expanded = await response.json();
             return {
-                people: speciesData.map((species) => ({ name: species.status === 'fulfilled' && species.value?.result?.properties?.name ? species.value.result.properties.name : '' })),
-                homeworld: homeworldData.ok ?
-                    await homeworldData.json().then(data => data.result?.properties?.name || i18n.t("unknown")) :
-                    i18n.t("unknown")
+                people: (expanded.people ?? []).map((person: { name?: string } | string) => ({ name: typeof person === 'object' && person?.name ? person.name : '' })),
+                homeworld: typeof expanded.homeworld === 'object' && expanded.homeworld?.name ? expanded.homeworld.name : i18n.t("unknown")
             }
         },
         enabled: !!id && !!species && species.people?.length !== undefined && species.people?.length > 0 && species.homeworld !== undefined,
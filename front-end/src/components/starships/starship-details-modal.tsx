@@ -9,6 +9,7 @@ import {LoaderSpinner} from "@/components/layout/loader-spinner.tsx";
 import {useFavoritesStarships} from "@/hooks/use-favorites.tsx";
 import {Heart} from "lucide-react";
 import i18n from "i18next";
+import {swapiFetch} from "@/api/swapi-api.ts";
 
 interface StarshipDetailsModalProps {
     starship: Starship | null;
@@ -30,26 +31,14 @@ const useStarshipsDetails = (starship: Starship | null) => {
             if(!id || !starship) {
                 throw new Error("Starship ID or starship data is not available");
             }
-            const fetchUrls = async (urls: string[]) => {
-                return Promise.allSettled(urls.map(async (url) => {
-                    try {
-                        console.log(`Fetching data from ${url}`);
-                        const response = await fetch(url);
-                        if (!response.ok) {
-                            throw new Error(`Error fetching ${url}: ${response.status}`);
-                        }
-                        return await response.json();
-                    } catch (error) {
-                        console.error(`Failed to fetch ${url}:`, error);
-                        throw error;
-                    }
-                }));
-            };
-            const pilotsData = await fetchUrls(starship.pilots || []);
-            const filmsData = await fetchUrls(starship.films || []);
+            const response = await swapiFetch(`${starship.url}?expand=pilots,films`, 'INTERACTIVE');
+            if (!response.ok) {
+                throw new Error(`Error fetching starship ${id}: ${response.status}`);
+            }
+            const expanded = await response.json();
             return {
-                pilots: pilotsData.map((pilot) => ({ name: pilot.status === 'fulfilled' && pilot.value?.result?.properties?.name ? pilot.value.result.properties.name : '' })),
-                films: filmsData.map((film) => ({ title: film.status === 'fulfilled' && film.value?.result?.properties?.title? film.value.result.properties.title : '' }))
+                pilots: (expanded.pilots ?? []).map((pilot: { name?: string } | string) => ({ name: typeof pilot === 'object' && pilot?.name ? pilot.name : '' })),
+                films: (expanded.films ?? []).map((film: { title?: string } | string) => ({ title: typeof film === 'object' && film?.title ? film.title : '' }))
             }
         },
         enabled: !!id && !!starship && starship.pilots?.length !== undefined && starship.films?.length !== undefined && (starship.pilots?.length > 0 || starship.films?.length > 0),
@@ -24,6 +24,7 @@ import { useTranslation } from 'react-i18next';
 import {useQuery} from "@tanstack/react-query";
 import {LoaderSpinner} from "@/components/layout/loader-spinner.tsx";
 import {cn} from "@/lib/utils.ts";
+import {swapiFetch} from "@/api/swapi-api.ts";
 
 interface CharacterDetailsModalProps {
     character: Person | null;
@@ -92,24 +93,28 @@ const fetchWithErrorHandling = async (url: string) => {
         throw error;
     }
 }
-const useHomeWorld = (url: string | null) => {
+const useHomeWorld = (character: Person | null) => {
     const { t } = useTranslation();
     return useQuery<string | null>({
-        queryKey: ['homeworld', url],
+        queryKey: ['homeworld', character?.url],
         queryFn: async () => {
-            if (!url) {
+            if (!character?.homeworld) {
                 return t("unknown");
             }
             try {
-                const data = await fetchWithErrorHandling(url);
-                const name = data.result?.properties?.name;
+                const res = await swapiFetch(`${character.url}?expand=homeworld`, 'INTERACTIVE');
+                if (!res.ok) {
+                    throw new Error(`Failed to fetch: ${res.statusText}`);
+                }
+                const person = await res.json();
+                const name = typeof person.homeworld === 'object' ? person.homeworld?.name : undefined;
                 return name === 'Unknown' ? t("unknown") : name || t("unknown");
             } catch (error) {
-                console.error("Error fetching homeworld:", error, url);
+                console.error("Error fetching homeworld:", error, character.url);
                 throw new Error(t("unknown"));
             }
         },
-        enabled: !!url,
+        enabled: !!character?.homeworld,
         staleTime: Infinity,
         gcTime: Infinity,
     });
@@ -235,7 +240,7 @@ export const CharacterDetailsModal = ({character, isOpen, onClose}: CharacterDet
     const [bottomShadowOpacity, setBottomShadowOpacity] = useState(0);
     const { favorites } = useFavoritesPeople();
     const { data: extra, isLoading: loadingExtra} = useSwapiInfoDetails(character);
-    const { data: homeworldName, isLoading: homeworldLoading } = useHomeWorld(character?.homeworld ?? null);
+    const { data: homeworldName, isLoading: homeworldLoading } = useHomeWorld(character);
 
     const isFavorite = useMemo(() => {
         if(!character?.url) return false;
@@ -4,6 +4,7 @@ import {toast} from "sonner";
 import i18n from 'i18next';
 import { fetchWithRetry} from "@/hooks/use-swapi";
 import { useEffect } from "react";
+import {swapiFetch} from "@/api/swapi-api";
 
 interface SwapiSpeciesListResponse {
     total_records: number;
@@ -12,11 +13,6 @@ interface SwapiSpeciesListResponse {
     previous: string | null;
     results: { url: string}[];
 }
-interface SwapiSpeciesDetailResponse {
-    result: {
-        properties: Species;
-    };
-}
 
 interface SpeciesPageResult {
     species: Species[];
@@ -24,14 +20,12 @@ interface SpeciesPageResult {
     totalPages: number;
 }
 
-const sleep = (ms: number) => new Promise((res) => setTimeout(res, ms));
-
 
 const totalPagesFetch = async (): Promise<number | null> => {
     try {
-        const response = await fetch('https://swapi.tech/api/species/');
+        const response = await swapiFetch('https://swapi.tech/api/species/');
         if(!response.ok) {
-            if(response.status === 429) {
+            if(response.status === 429 || response.status === 503) {
                 console.warn("Rate limit hit when fetching total_pages");
             } else {
                 console.error(`Error fetching total_records: ${response.status}`);
@@ -47,8 +41,7 @@ const totalPagesFetch = async (): Promise<number | null> => {
 };
 
 const fetchSpeciesDetailsBatch = async (
-    urls: string[],
-    delayBetweenBatches: number
+    urls: string[]
 ): Promise<{successful: Species[], failedCount: number}> => {
     const successful: Species[] = [];
     let currentFailedCount = 0;
@@ -59,8 +52,8 @@ const fetchSpeciesDetailsBatch = async (
             const res = await fetchWithRetry(url);
             if(!res) return null;
             try {
-                const data: SwapiSpeciesDetailResponse = await res.json();
-                return data.result.properties;
+                const data: Species = await res.json();
+                return data;
             } catch (error) {
                 console.error(`Error parsing species data for ${url}: `, error);
                 return null;
@@ -74,9 +67,6 @@ const fetchSpeciesDetailsBatch = async (
                 currentFailedCount += 1;
             }
         });
-        if(i + batchSize < urls.length) {
-            await sleep(delayBetweenBatches);
-        }
     }
     return {successful, failedCount: currentFailedCount};
 };
@@ -102,7 +92,7 @@ const fetchSpeciesPage = async (page: number, limit: number): Promise<SpeciesPag
         const listJson: SwapiSpeciesListResponse = await listResponse.json();
         const speciesUrls = listJson.results.map((r) => r.url);
 
-        const {successful: speciesFromPage, failedCount} = await fetchSpeciesDetailsBatch(speciesUrls, 1000);
+        const {successful: speciesFromPage, failedCount} = await fetchSpeciesDetailsBatch(speciesUrls);
         if (failedCount > 0) {
             toast.warning(
                 i18n.t("failedSpeciesCount", {
@@ -4,6 +4,7 @@ import {toast} from "sonner";
 import i18n from 'i18next';
 import { fetchWithRetry} from "@/hooks/use-swapi";
 import { useEffect } from "react";
+import {swapiFetch} from "@/api/swapi-api";
 
 interface SwapiStarshipListResponse {
     total_records: number;
@@ -12,11 +13,6 @@ interface SwapiStarshipListResponse {
     previous: string | null;
     results: { url: string}[];
 }
-interface SwapiStarshipDetailResponse {
-    result: {
-        properties: Starship;
-    };
-}
 
 interface StarshipPageResult {
     starships: Starship[];
@@ -24,14 +20,12 @@ interface StarshipPageResult {
     totalPages: number;
 }
 
-const sleep = (ms: number) => new Promise((res) => setTimeout(res, ms));
-
 
 const totalPagesFetch = async (): Promise<number | null> => {
     try {
-        const response = await fetch('https://swapi.tech/api/starships/');
+        const response = await swapiFetch('https://swapi.tech/api/starships/');
         if(!response.ok) {
-            if(response.status === 429) {
+            if(response.status === 429 || response.status === 503) {
                 console.warn("Rate limit hit when fetching total_pages");
             } else {
                 console.error(`Error fetching total_records: ${response.status}`);
@@ -47,8 +41,7 @@ const totalPagesFetch = async (): Promise<number | null> => {
 };
 
 const fetchStarshipDetailsBatch = async (
-    urls: string[],
-    delayBetweenBatches: number
+    urls: string[]
 ): Promise<{successful: Starship[], failedCount: number}> => {
   const successful: Starship[] = [];
   let currentFailedCount = 0;
@@ -59,8 +52,8 @@ const fetchStarshipDetailsBatch = async (
           const res = await fetchWithRetry(url);
           if(!res) return null;
           try {
-              const data: SwapiStarshipDetailResponse = await res.json();
-              return data.result.properties;
+              const starship: Starship = await res.json();
+              return starship;
           } catch (error) {
               console.error(`Error parsing starship data for ${url}: `, error);
               return null;
@@ -74,9 +67,6 @@ const fetchStarshipDetailsBatch = async (
               currentFailedCount += 1;
           }
       });
-      if(i + batchSize < urls.length) {
-          await sleep(delayBetweenBatches);
-      }
   }
   return {successful, failedCount: currentFailedCount};
 };
@@ -102,7 +92,7 @@ const fetchStarshipsPage = async (page: number, limit: number): Promise<Starship
         const listJson: SwapiStarshipListResponse = await listResponse.json();
         const starshipsUrls = listJson.results.map((r) => r.url);
 
-        const {successful: starshipsFromPage, failedCount} = await fetchStarshipDetailsBatch(starshipsUrls, 1000);
+        const {successful: starshipsFromPage, failedCount} = await fetchStarshipDetailsBatch(starshipsUrls);
         if (failedCount > 0) {
             toast.warning(
                 i18n.t("failedStarshipsCount", {
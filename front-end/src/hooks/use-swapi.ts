@@ -3,6 +3,7 @@ import type {Person} from "@/types";
 import {toast} from "sonner";
 import i18n from "@/i18n";
 import {useEffect} from "react";
+import {swapiFetch} from "@/api/swapi-api";
 
 interface SwapiListResponse {
     count: number;
@@ -13,12 +14,6 @@ interface SwapiListResponse {
     total_pages: number;
 }
 
-interface SwapiDetailResponse {
-    result: {
-        properties: Person;
-    };
-}
-
 interface PeoplePageResult {
     people: Person[];
     totalRecords: number;
@@ -30,9 +25,9 @@ const isTesting = false;
 
 const fetchTotalPagesFetch = async (): Promise<number | null> => {
     try {
-        const response = await fetch("https://www.swapi.tech/api/people");
+        const response = await swapiFetch("https://www.swapi.tech/api/people");
         if (!response.ok) {
-            if (response.status === 429) {
+            if (response.status === 429 || response.status === 503) {
                 console.warn("Rate limit hit when fetching total_pages");
             } else {
                 console.error(`Error fetching total_pages: ${response.status} ${response.statusText}`);
@@ -58,12 +53,14 @@ export const fetchWithRetry = async (
     }
     for (let i = 0; i < retries; i++) {
         try {
-            const response = await fetch(url);
+            const response = await swapiFetch(url, "BACKGROUND");
             if (response.ok) return response;
 
-            if (response.status === 429) {
-                console.warn(`429 Too Many Requests for ${url}, retrying in ${delay}ms...`);
-                await sleep(delay);
+            if (response.status === 429 || response.status === 503) {
+                const retryAfterSeconds = Number(response.headers.get("Retry-After"));
+                const wait = retryAfterSeconds > 0 ? retryAfterSeconds * 1000 : delay;
+                console.warn(`${response.status} from the SWAPI proxy for ${url}, retrying in ${wait}ms...`);
+                await sleep(wait);
                 delay *= 2;
             } else {
                 console.error(`Fetch failed for ${url}: ${response.status} ${response.statusText}`);
@@ -79,8 +76,7 @@ export const fetchWithRetry = async (
 };
 
 const fetchPeopleDetailsBatch = async (
-    urls: string[],
-    delayBetweenBatches: number
+    urls: string[]
 ): Promise<{successful: Person[], failedCount: number}> => {
     const successful: Person[] = [];
     let currentFailedCount = 0;
@@ -94,8 +90,8 @@ const fetchPeopleDetailsBatch = async (
                 return null;
             }
             try {
-                const data: SwapiDetailResponse = await res.json();
-                return data.result.properties;
+                const person: Person = await res.json();
+                return person;
             } catch (err) {
                 console.error(`Error parsing JSON for ${url}:`, err);
                 return null;
@@ -111,10 +107,6 @@ const fetchPeopleDetailsBatch = async (
                 currentFailedCount++;
             }
         });
-
-        if (i + batchSize < urls.length) {
-            await sleep(delayBetweenBatches);
-        }
     }
 
     return {successful, failedCount: currentFailedCount};
@@ -142,7 +134,7 @@ const fetchPeoplePage = async (page: number, limit: number): Promise<PeoplePageR
         const listJson: SwapiListResponse = await listResponse.json();
         const characterUrls = listJson.results.map((r) => r.url);
 
-        const {successful: peopleFromPage, failedCount} = await fetchPeopleDetailsBatch(characterUrls, 1000);
+        const {successful: peopleFromPage, failedCount} = await fetchPeopleDetailsBatch(characterUrls);
         if (failedCount > 0) {
             toast.warning(
                 i18n.t("failedCharactersCount", {